@@ -0,0 +1,119 @@
+package dev.emmanuelrobinson.capacitormotion;
+
+/**
+ * Decides whether the device is still or moving over fixed time windows.
+ *
+ * Two signals are combined: the per-axis variance of the accelerometer vector,
+ * which catches translation and tilting, and the RMS gyroscope rate, which also
+ * catches turning about the gravity axis where the accelerometer does not change.
+ *
+ * Dropping to idle requires several consecutive quiet windows, while a single
+ * window above either (higher) motion threshold switches back to active, so the
+ * sampling rate does not flap around the boundary.
+ */
+class AdaptiveRateController {
+    static final long WINDOW_NANOS = 1_000_000_000L;
+    // Thresholds on the summed per-axis variance of the accel vector, in (m/s²)²
+    static final double STILL_VARIANCE = 0.002;
+    static final double MOVING_VARIANCE = 0.02;
+    // Thresholds on the RMS rotation rate, in rad/s
+    static final double STILL_ROTATION_RATE = 0.05;
+    static final double MOVING_ROTATION_RATE = 0.2;
+    static final int STILL_WINDOWS_TO_IDLE = 3;
+
+    private long windowStart = -1;
+    private int accelCount = 0;
+    private final double[] accelSum = new double[3];
+    private final double[] accelSumOfSquares = new double[3];
+    private int gyroCount = 0;
+    private double gyroSumOfSquares = 0;
+    private int stillWindows = 0;
+    private boolean idle = false;
+
+    /**
+     * Feed one accelerometer sample.
+     *
+     * @return true if the sample closed a window that changed the mode.
+     */
+    boolean onAccelerometer(long timestampNanos, float x, float y, float z) {
+        accelCount++;
+        accumulate(0, x);
+        accumulate(1, y);
+        accumulate(2, z);
+        return advance(timestampNanos);
+    }
+
+    /**
+     * Feed one gyroscope sample, in rad/s.
+     *
+     * @return true if the sample closed a window that changed the mode.
+     */
+    boolean onGyroscope(long timestampNanos, float x, float y, float z) {
+        gyroCount++;
+        gyroSumOfSquares += x * x + y * y + z * z;
+        return advance(timestampNanos);
+    }
+
+    private void accumulate(int axis, float value) {
+        accelSum[axis] += value;
+        accelSumOfSquares[axis] += value * value;
+    }
+
+    private boolean advance(long timestampNanos) {
+        if (windowStart < 0) {
+            windowStart = timestampNanos;
+        }
+        if (timestampNanos - windowStart < WINDOW_NANOS || (accelCount < 2 && gyroCount == 0)) {
+            return false;
+        }
+
+        double variance = 0;
+        if (accelCount >= 2) {
+            for (int axis = 0; axis < 3; axis++) {
+                double mean = accelSum[axis] / accelCount;
+                variance += Math.max(0, accelSumOfSquares[axis] / accelCount - mean * mean);
+            }
+        }
+        double rotationRate = gyroCount > 0 ? Math.sqrt(gyroSumOfSquares / gyroCount) : 0;
+        clearWindow();
+        windowStart = timestampNanos;
+
+        if (idle) {
+            if (variance > MOVING_VARIANCE || rotationRate > MOVING_ROTATION_RATE) {
+                idle = false;
+                stillWindows = 0;
+                return true;
+            }
+            return false;
+        }
+
+        boolean still = variance < STILL_VARIANCE && rotationRate < STILL_ROTATION_RATE;
+        stillWindows = still ? stillWindows + 1 : 0;
+        if (stillWindows >= STILL_WINDOWS_TO_IDLE) {
+            idle = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void clearWindow() {
+        accelCount = 0;
+        gyroCount = 0;
+        gyroSumOfSquares = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            accelSum[axis] = 0;
+            accelSumOfSquares[axis] = 0;
+        }
+    }
+
+    boolean isIdle() {
+        return idle;
+    }
+
+    void reset() {
+        windowStart = -1;
+        clearWindow();
+        stillWindows = 0;
+        idle = false;
+    }
+}
@@ -10,11 +10,20 @@ import android.location.Location;
 import android.location.LocationListener;
 import android.location.LocationManager;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
 import com.getcapacitor.JSObject;
 import com.getcapacitor.PluginCall;
-import com.getcapacitor.Plugin;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class Motion implements SensorEventListener, LocationListener {
+    // Sensor types are small, dense integers; TYPE_HEADING is the highest one we route.
+    private static final int SENSOR_TYPE_SLOTS = Sensor.TYPE_HEADING + 1;
+    private static final String SAMPLING_MODE_EVENT = "samplingMode";
+    // The detector only needs a handful of samples per window
+    private static final int DETECTOR_SAMPLING_PERIOD = SensorManager.SENSOR_DELAY_NORMAL;
+
     private MotionPlugin motionPlugin;
     private SensorManager sensorManager;
     private LocationManager locationManager;
@@ -23,31 +32,44 @@ public class Motion implements SensorEventListener, LocationListener {
     private Sensor magnetometer;
     private Sensor headingSensor;
     private Sensor rotationVectorSensor;
-    private boolean isAccelActive = false;
-    private boolean isOrientationActive = false;
-    private boolean isHeadingActive = false;
+
+    // Sensor and location callbacks, and all channel and rate controller state, are confined
+    // to this thread; plugin calls post their work onto it
+    private final HandlerThread sensorThread;
+    private final Handler sensorHandler;
 
     // Location for true north calculation
     private double currentLatitude = 0.0;
     private double currentLongitude = 0.0;
     private double currentAltitude = 0.0;
 
-    private float[] accelerometerValues = new float[3];
-    private float[] gyroscopeValues = new float[3];
-    private float[] magnetometerValues = new float[3];
-    private float[] headingValues = new float[1];
-    private float[] rotationVectorValues = new float[5];
+    // Channel registry: lookup by event name for add/remove, and by sensor type for dispatch.
+    // Built once in the constructor; per-channel state lives on the sensor thread.
+    private final Map<String, MotionChannel> channels = new LinkedHashMap<>();
+    private final MotionChannel[][] channelsBySensorType = new MotionChannel[SENSOR_TYPE_SLOTS][];
+    private final float[][] sensorValues = new float[SENSOR_TYPE_SLOTS][];
+
     private float[] rotationMatrix = new float[9];
     private float[] orientationAngles = new float[3];
     private float[] inclinationMatrix = new float[9];
+    private float[] quaternion = new float[4];
     private GeomagneticField geomagneticField;
+    private float stepCounterBaseline = -1f;
 
-    // Magnetic field strength monitoring for interference detection
-    private float[] lastMagneticFieldStrength = new float[3];
     private boolean useRotationVectorForHeading = false;
 
+    // Drop to a low sampling rate while the device is lying still
+    private final AdaptiveRateController rateController = new AdaptiveRateController();
+    private boolean adaptiveSampling = true;
+    // Measured spacing of accelerometer samples; the nominal game rate until two have arrived
+    private long lastAccelTimestamp = -1;
+    private float accelIntervalMs = 16.67f;
+
     public Motion(MotionPlugin plugin) {
         this.motionPlugin = plugin;
+        this.sensorThread = new HandlerThread("MotionSensors");
+        this.sensorThread.start();
+        this.sensorHandler = new Handler(sensorThread.getLooper());
         this.sensorManager = (SensorManager) plugin.getContext().getSystemService(Context.SENSOR_SERVICE);
         this.locationManager = (LocationManager) plugin.getContext().getSystemService(Context.LOCATION_SERVICE);
 
@@ -62,13 +84,16 @@ public class Motion implements SensorEventListener, LocationListener {
             // magnetic interference
             useRotationVectorForHeading = (rotationVectorSensor != null);
 
+            registerChannels();
+
             // Log sensor availability for debugging
-            System.out.println("Motion: Sensor availability - Accelerometer: " + (accelerometer != null) +
-                    ", Gyroscope: " + (gyroscope != null) +
-                    ", Magnetometer: " + (magnetometer != null) +
-                    ", Heading: " + (headingSensor != null) +
-                    ", RotationVector: " + (rotationVectorSensor != null) +
-                    ", Using RotationVector for heading: " + useRotationVectorForHeading);
+            StringBuilder availability = new StringBuilder("Motion: Channel availability -");
+            for (MotionChannel channel : channels.values()) {
+                availability.append(' ').append(channel.eventName).append(": ")
+                        .append(channel.isAvailable()).append(',');
+            }
+            availability.append(" Using RotationVector for heading: ").append(useRotationVectorForHeading);
+            System.out.println(availability);
         }
 
         // Try to get last known location for geomagnetic field calculation
@@ -96,30 +121,92 @@ public class Motion implements SensorEventListener, LocationListener {
         }
     }
 
+    private void registerChannels() {
+        registerChannel(new MotionChannel(sensorManager, "accel",
+                new int[] { Sensor.TYPE_ACCELEROMETER, Sensor.TYPE_GYROSCOPE }, 7, true,
+                this::processAccel, this::emitAccel));
+        registerChannel(new MotionChannel(sensorManager, "orientation",
+                new int[] { Sensor.TYPE_ACCELEROMETER, Sensor.TYPE_MAGNETIC_FIELD }, 3, true,
+                this::processOrientation, this::emitOrientation));
+
+        // Priority order: 1) Rotation Vector (most stable), 2) Dedicated heading
+        // sensor, 3) Calculated from mag+accel
+        if (useRotationVectorForHeading) {
+            registerChannel(new MotionChannel(sensorManager, "heading", Sensor.TYPE_ROTATION_VECTOR, 1, true,
+                    this::processHeadingFromRotationVector, this::emitHeading));
+        } else if (headingSensor != null) {
+            registerChannel(new MotionChannel(sensorManager, "heading", Sensor.TYPE_HEADING, 1, true,
+                    this::processDirectHeading, this::emitHeading));
+        } else {
+            registerChannel(new MotionChannel(sensorManager, "heading",
+                    new int[] { Sensor.TYPE_ACCELEROMETER, Sensor.TYPE_MAGNETIC_FIELD }, 1, true,
+                    this::processCalculatedHeading, this::emitHeading));
+        }
+
+        registerChannel(new MotionChannel(sensorManager, "gravity", Sensor.TYPE_GRAVITY, 3, true,
+                this::processGravity, this::emitGravity));
+        registerChannel(new MotionChannel(sensorManager, "gameRotation", Sensor.TYPE_GAME_ROTATION_VECTOR, 7,
+                true, this::processGameRotation, this::emitGameRotation));
+        // Pressure and steps are unrelated to device motion, so they keep their rate
+        // and do not pull in the motion detector
+        registerChannel(new MotionChannel(sensorManager, "pressure", Sensor.TYPE_PRESSURE, 2, false,
+                this::processPressure, this::emitPressure));
+        registerChannel(new MotionChannel(sensorManager, "steps", Sensor.TYPE_STEP_COUNTER, 2, false,
+                this::processSteps, this::emitSteps));
+    }
+
+    private void registerChannel(MotionChannel channel) {
+        for (int type : channel.sensorTypes) {
+            if (sensorValues[type] == null) {
+                sensorValues[type] = new float[sensorBufferSize(type)];
+            }
+
+            MotionChannel[] routed = channelsBySensorType[type];
+            if (routed == null) {
+                channelsBySensorType[type] = new MotionChannel[] { channel };
+            } else {
+                MotionChannel[] grown = new MotionChannel[routed.length + 1];
+                System.arraycopy(routed, 0, grown, 0, routed.length);
+                grown[routed.length] = channel;
+                channelsBySensorType[type] = grown;
+            }
+        }
+        channels.put(channel.eventName, channel);
+    }
+
+    private static int sensorBufferSize(int sensorType) {
+        switch (sensorType) {
+            case Sensor.TYPE_ROTATION_VECTOR:
+            case Sensor.TYPE_GAME_ROTATION_VECTOR:
+                return 5;
+            case Sensor.TYPE_HEADING:
+            case Sensor.TYPE_PRESSURE:
+            case Sensor.TYPE_STEP_COUNTER:
+                return 1;
+            default:
+                return 3;
+        }
+    }
+
     public void startMotionUpdates(PluginCall call) {
         if (accelerometer == null && gyroscope == null && magnetometer == null) {
             call.reject("Motion sensors not available on this device.");
             return;
         }
-        call.resolve();
+
+        boolean enabled = call.getBoolean("adaptiveSampling", true);
+        sensorHandler.post(() -> {
+            setAdaptiveSampling(enabled);
+            call.resolve();
+        });
     }
 
     public void stopMotionUpdates(PluginCall call) {
-        if (isAccelActive || isOrientationActive || isHeadingActive) {
-            sensorManager.unregisterListener(this);
-            if (locationManager != null && isHeadingActive) {
-                try {
-                    locationManager.removeUpdates(this);
-                    System.out.println("Motion: Stopped location updates");
-                } catch (SecurityException e) {
-                    System.out.println("Motion: Error stopping location updates: " + e.getMessage());
-                }
-            }
-            isAccelActive = false;
-            isOrientationActive = false;
-            isHeadingActive = false;
-        }
-        call.resolve();
+        sensorHandler.post(() -> {
+            // JS listeners stay attached, so tell them the next start is at full rate
+            stopAllChannels(true);
+            call.resolve();
+        });
     }
 
     public void addListener(PluginCall call) {
@@ -131,15 +218,8 @@ public class Motion implements SensorEventListener, LocationListener {
 
         System.out.println("Motion: addListener called for event: " + eventName);
 
-        if ("accel".equals(eventName)) {
-            startAccelerometerUpdates();
-            call.resolve(); // This was missing!
-        } else if ("orientation".equals(eventName)) {
-            startOrientationUpdates();
-            call.resolve(); // This was missing!
-        } else if ("heading".equals(eventName)) {
-            startHeadingUpdates();
-            call.resolve(); // This was missing!
+        if (startChannelUpdates(eventName)) {
+            call.resolve();
         } else {
             call.reject("Invalid event name: " + eventName);
         }
@@ -147,10 +227,88 @@ public class Motion implements SensorEventListener, LocationListener {
 
     public void removeAllListeners(PluginCall call) {
         System.out.println("Motion: removeAllListeners called");
+        sensorHandler.post(() -> {
+            stopAllChannels(false);
+            call.resolve();
+        });
+    }
+
+    /**
+     * Stop all sensors and shut down the sensor thread.
+     */
+    public void destroy() {
+        sensorHandler.post(() -> stopAllChannels(false));
+        sensorThread.quitSafely();
+    }
+
+    /**
+     * Start the sensors backing the given event channel.
+     *
+     * @return false if no channel is registered under {@code eventName}.
+     */
+    public boolean startChannelUpdates(String eventName) {
+        if (SAMPLING_MODE_EVENT.equals(eventName)) {
+            // Emitted by the rate controller; no sensors of its own
+            return true;
+        }
+
+        // The registry itself is fixed after construction, only channel state changes
+        MotionChannel channel = channels.get(eventName);
+        if (channel == null) {
+            return false;
+        }
+        sensorHandler.post(() -> startChannel(channel));
+        return true;
+    }
+
+    private void startChannel(MotionChannel channel) {
+        String eventName = channel.eventName;
+        if (channel.active) {
+            System.out.println("Motion: " + eventName + " updates already active.");
+            return;
+        }
+        if (!channel.isAvailable()) {
+            System.out.println("Motion: Sensors not available for " + eventName + " updates.");
+            return;
+        }
+
+        System.out.println("Motion: Starting " + eventName + " updates");
+        channel.active = true;
+        syncSensorRegistrations();
+
+        // The calculated heading needs a location fix for accurate true north
+        if ("heading".equals(eventName) && !useRotationVectorForHeading && headingSensor == null
+                && locationManager != null) {
+            try {
+                locationManager.requestLocationUpdates(LocationManager.GPS_PROVIDER, 10000, 100, this);
+                System.out.println("Motion: Requested location updates for true north accuracy");
+            } catch (SecurityException e) {
+                System.out.println("Motion: Location permission not granted, using last known/default location");
+            }
+        }
+    }
+
+    private void setAdaptiveSampling(boolean enabled) {
+        if (enabled == adaptiveSampling) {
+            return;
+        }
+        System.out.println("Motion: Adaptive sampling " + (enabled ? "enabled" : "disabled"));
+        adaptiveSampling = enabled;
+        boolean wasIdle = rateController.isIdle();
+        rateController.reset();
+        syncSensorRegistrations();
+        if (wasIdle) {
+            emitSamplingMode();
+        }
+    }
+
+    private void stopAllChannels(boolean notifyModeChange) {
         if (sensorManager != null) {
             sensorManager.unregisterListener(this);
         }
-        if (locationManager != null && isHeadingActive) {
+
+        MotionChannel heading = channels.get("heading");
+        if (locationManager != null && heading != null && heading.active) {
             try {
                 locationManager.removeUpdates(this);
                 System.out.println("Motion: Stopped location updates");
@@ -158,312 +316,312 @@ public class Motion implements SensorEventListener, LocationListener {
                 System.out.println("Motion: Error stopping location updates: " + e.getMessage());
             }
         }
-        isAccelActive = false;
-        isOrientationActive = false;
-        isHeadingActive = false;
-        call.resolve();
-    }
 
-    public void startAccelerometerUpdates() {
-        if (!isAccelActive && accelerometer != null && gyroscope != null) {
-            System.out.println("Motion: Starting accelerometer updates");
-            isAccelActive = true;
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
-            sensorManager.registerListener(this, gyroscope, SensorManager.SENSOR_DELAY_GAME);
-        } else {
-            if (isAccelActive) {
-                System.out.println("Motion: Accelerometer updates already active.");
-            } else {
-                System.out.println("Motion: Accelerometer or Gyroscope sensor not available.");
-            }
+        for (MotionChannel channel : channels.values()) {
+            channel.active = false;
+        }
+        stepCounterBaseline = -1f;
+        lastAccelTimestamp = -1;
+
+        // Sensors restart at full rate, so let JS know if it last saw "idle"
+        boolean wasIdle = rateController.isIdle();
+        rateController.reset();
+        if (wasIdle && notifyModeChange) {
+            emitSamplingMode();
         }
     }
 
-    public void startOrientationUpdates() {
-        if (!isOrientationActive && accelerometer != null && magnetometer != null) {
-            System.out.println("Motion: Starting orientation updates");
-            isOrientationActive = true;
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
-            sensorManager.registerListener(this, magnetometer, SensorManager.SENSOR_DELAY_GAME);
-        } else {
-            if (isOrientationActive) {
-                System.out.println("Motion: Orientation updates already active.");
-            } else {
-                System.out.println("Motion: Accelerometer or Magnetometer sensor not available for orientation.");
-            }
-        }
+    private int samplingPeriod(MotionChannel channel) {
+        return channel.adaptive ? adaptiveSamplingPeriod() : SensorManager.SENSOR_DELAY_GAME;
     }
 
-    public void startHeadingUpdates() {
-        if (isHeadingActive) {
-            System.out.println("Motion: Heading updates already active.");
+    private int adaptiveSamplingPeriod() {
+        return rateController.isIdle() ? SensorManager.SENSOR_DELAY_NORMAL : SensorManager.SENSOR_DELAY_GAME;
+    }
+
+    /**
+     * Register the sensors of every active channel at its rate for the current mode,
+     * then the motion detectors.
+     */
+    private void syncSensorRegistrations() {
+        if (sensorManager == null) {
             return;
         }
 
-        // Priority order: 1) Rotation Vector (most stable), 2) Dedicated heading
-        // sensor, 3) Calculated from mag+accel
-        if (useRotationVectorForHeading && rotationVectorSensor != null) {
-            System.out.println("Motion: Starting heading updates with Rotation Vector sensor (interference-resistant)");
-            isHeadingActive = true;
-            sensorManager.registerListener(this, rotationVectorSensor, SensorManager.SENSOR_DELAY_GAME);
-        } else if (headingSensor != null) {
-            System.out.println("Motion: Starting heading updates with dedicated heading sensor");
-            isHeadingActive = true;
-            sensorManager.registerListener(this, headingSensor, SensorManager.SENSOR_DELAY_GAME);
-        } else if (magnetometer != null && accelerometer != null) {
-            // Fallback to calculated heading from magnetometer and accelerometer
-            System.out.println(
-                    "Motion: Starting heading updates with calculated true north heading (magnetometer + accelerometer)");
-            isHeadingActive = true;
-            sensorManager.registerListener(this, magnetometer, SensorManager.SENSOR_DELAY_GAME);
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
-
-            // Optionally request location updates for more accurate true north
-            if (locationManager != null) {
-                try {
-                    locationManager.requestLocationUpdates(LocationManager.GPS_PROVIDER, 10000, 100, this);
-                    System.out.println("Motion: Requested location updates for true north accuracy");
-                } catch (SecurityException e) {
-                    System.out.println("Motion: Location permission not granted, using last known/default location");
-                }
+        sensorManager.unregisterListener(this);
+        boolean anyAdaptive = false;
+        for (MotionChannel channel : channels.values()) {
+            if (!channel.active) {
+                continue;
+            }
+            anyAdaptive |= channel.adaptive;
+            int samplingPeriod = samplingPeriod(channel);
+            for (Sensor sensor : channel.sensors) {
+                sensorManager.registerListener(this, sensor, samplingPeriod, sensorHandler);
+            }
+        }
+
+        // The rate controller needs accel and gyro even if no active channel reads them;
+        // the gyroscope catches turning about the gravity axis. Android ignores a second
+        // registration of the same sensor, so channels that do read them keep their rate.
+        if (adaptiveSampling && anyAdaptive) {
+            if (accelerometer != null) {
+                sensorManager.registerListener(this, accelerometer, DETECTOR_SAMPLING_PERIOD, sensorHandler);
+            }
+            if (gyroscope != null) {
+                sensorManager.registerListener(this, gyroscope, DETECTOR_SAMPLING_PERIOD, sensorHandler);
             }
-        } else {
-            System.out.println("Motion: No sensors available for heading calculation.");
         }
     }
 
-    private void calculateHeadingFromRotationVector() {
-        if (rotationVectorValues.length < 4)
+    private void emitSamplingMode() {
+        // Events are retained until consumed, so don't queue transitions nobody listens for
+        if (!motionPlugin.bridgeHasListeners(SAMPLING_MODE_EVENT)) {
             return;
+        }
 
-        // Get rotation matrix from rotation vector
-        float[] rotationMatrixFromVector = new float[9];
-        SensorManager.getRotationMatrixFromVector(rotationMatrixFromVector, rotationVectorValues);
+        String mode = rateController.isIdle() ? "idle" : "active";
+        System.out.println("Motion: Sampling mode changed to " + mode);
 
-        // Get orientation from rotation matrix
-        float[] orientationFromVector = new float[3];
-        SensorManager.getOrientation(rotationMatrixFromVector, orientationFromVector);
+        JSObject data = new JSObject();
+        data.put("mode", mode);
+        motionPlugin.bridgeNotifyListeners(SAMPLING_MODE_EVENT, data);
+    }
 
-        // Get heading (azimuth) in radians and convert to degrees
-        double headingRadians = orientationFromVector[0];
-        double headingDegrees = Math.toDegrees(headingRadians);
+    @Override
+    public void onSensorChanged(SensorEvent event) {
+        int type = event.sensor.getType();
+        if (type < 0 || type >= SENSOR_TYPE_SLOTS) {
+            return;
+        }
 
-        // Apply magnetic declination to get true north
-        try {
-            if (geomagneticField == null) {
-                geomagneticField = new GeomagneticField(
-                        (float) currentLatitude,
-                        (float) currentLongitude,
-                        (float) currentAltitude,
-                        System.currentTimeMillis());
+        if (type == Sensor.TYPE_ACCELEROMETER) {
+            if (lastAccelTimestamp >= 0) {
+                accelIntervalMs = (event.timestamp - lastAccelTimestamp) / 1_000_000f;
             }
+            lastAccelTimestamp = event.timestamp;
+        }
 
-            float declination = geomagneticField.getDeclination();
-            headingDegrees += declination;
+        if (adaptiveSampling) {
+            boolean modeChanged = false;
+            if (type == Sensor.TYPE_ACCELEROMETER) {
+                modeChanged = rateController.onAccelerometer(event.timestamp, event.values[0], event.values[1],
+                        event.values[2]);
+            } else if (type == Sensor.TYPE_GYROSCOPE) {
+                modeChanged = rateController.onGyroscope(event.timestamp, event.values[0], event.values[1],
+                        event.values[2]);
+            }
+            if (modeChanged) {
+                syncSensorRegistrations();
+                emitSamplingMode();
+            }
+        }
 
-            System.out.println("Motion: RotationVector heading: " + Math.toDegrees(headingRadians) +
-                    "°, Declination: " + declination + "°, True heading: " + headingDegrees + "°");
+        MotionChannel[] routed = channelsBySensorType[type];
+        if (routed == null) {
+            return;
+        }
 
-        } catch (Exception e) {
-            System.out.println(
-                    "Motion: Error calculating declination for rotation vector, using raw heading: " + e.getMessage());
+        float[] latest = sensorValues[type];
+        System.arraycopy(event.values, 0, latest, 0, Math.min(event.values.length, latest.length));
+
+        for (MotionChannel channel : routed) {
+            if (channel.active && channel.processor.process(sensorValues, channel.values)) {
+                channel.emitter.emit(channel.values);
+            }
         }
+    }
 
-        // Normalize to 0-360 degrees
-        while (headingDegrees < 0)
-            headingDegrees += 360;
-        while (headingDegrees >= 360)
-            headingDegrees -= 360;
+    // Processors: fill the channel buffer from the latest raw readings
 
-        JSObject data = new JSObject();
-        data.put("heading", headingDegrees);
+    private boolean processAccel(float[][] in, float[] out) {
+        float[] accel = in[Sensor.TYPE_ACCELEROMETER];
+        float[] gyro = in[Sensor.TYPE_GYROSCOPE];
+        System.arraycopy(accel, 0, out, 0, 3);
+        System.arraycopy(gyro, 0, out, 3, 3);
+        out[6] = accelIntervalMs;
+        return true;
+    }
 
-        System.out.println(
-                "[Motion.java] calculateHeadingFromRotationVector: About to notify listeners for 'heading' with interference-resistant value: "
-                        + headingDegrees);
-        motionPlugin.bridgeNotifyListeners("heading", data);
-        System.out.println(
-                "[Motion.java] calculateHeadingFromRotationVector: Finished notifying listeners for 'heading'");
+    private boolean processOrientation(float[][] in, float[] out) {
+        if (!SensorManager.getRotationMatrix(rotationMatrix, null, in[Sensor.TYPE_ACCELEROMETER],
+                in[Sensor.TYPE_MAGNETIC_FIELD])) {
+            return false;
+        }
+        SensorManager.getOrientation(rotationMatrix, orientationAngles);
+        out[0] = (float) Math.toDegrees(orientationAngles[0]);
+        out[1] = (float) Math.toDegrees(orientationAngles[1]);
+        out[2] = (float) Math.toDegrees(orientationAngles[2]);
+        return true;
     }
 
-    @Override
-    public void onSensorChanged(SensorEvent event) {
-        switch (event.sensor.getType()) {
-            case Sensor.TYPE_ACCELEROMETER:
-                System.arraycopy(event.values, 0, accelerometerValues, 0, event.values.length);
-                if (isAccelActive) {
-                    sendAccelerometerData();
-                }
-                if (isOrientationActive && magnetometerValues.length > 0) {
-                    calculateOrientation();
-                }
-                // Calculate heading if we don't have a dedicated heading sensor
-                if (isHeadingActive && headingSensor == null && magnetometerValues.length > 0) {
-                    calculateHeading();
-                }
-                break;
+    private boolean processHeadingFromRotationVector(float[][] in, float[] out) {
+        SensorManager.getRotationMatrixFromVector(rotationMatrix, in[Sensor.TYPE_ROTATION_VECTOR]);
+        SensorManager.getOrientation(rotationMatrix, orientationAngles);
+        out[0] = (float) normalizeDegrees(Math.toDegrees(orientationAngles[0]) + getDeclination());
+        return true;
+    }
 
-            case Sensor.TYPE_GYROSCOPE:
-                System.arraycopy(event.values, 0, gyroscopeValues, 0, event.values.length);
-                if (isAccelActive) {
-                    sendAccelerometerData();
-                }
-                break;
+    private boolean processDirectHeading(float[][] in, float[] out) {
+        // The heading sensor typically provides values in degrees (0-360)
+        out[0] = (float) normalizeDegrees(in[Sensor.TYPE_HEADING][0]);
+        return true;
+    }
 
-            case Sensor.TYPE_MAGNETIC_FIELD:
-                System.arraycopy(event.values, 0, magnetometerValues, 0, event.values.length);
-                if (isOrientationActive && accelerometerValues.length > 0) {
-                    calculateOrientation();
-                }
-                // Calculate heading if we don't have rotation vector or dedicated heading
-                // sensor
-                if (isHeadingActive && !useRotationVectorForHeading && headingSensor == null
-                        && accelerometerValues.length > 0) {
-                    calculateHeading();
-                }
-                break;
+    private boolean processCalculatedHeading(float[][] in, float[] out) {
+        if (!SensorManager.getRotationMatrix(rotationMatrix, inclinationMatrix, in[Sensor.TYPE_ACCELEROMETER],
+                in[Sensor.TYPE_MAGNETIC_FIELD])) {
+            return false;
+        }
+        SensorManager.getOrientation(rotationMatrix, orientationAngles);
+        out[0] = (float) normalizeDegrees(Math.toDegrees(orientationAngles[0]) + getDeclination());
+        return true;
+    }
 
-            case Sensor.TYPE_ROTATION_VECTOR:
-                System.arraycopy(event.values, 0, rotationVectorValues, 0,
-                        Math.min(event.values.length, rotationVectorValues.length));
-                if (isHeadingActive && useRotationVectorForHeading) {
-                    calculateHeadingFromRotationVector();
-                }
-                break;
+    private boolean processGravity(float[][] in, float[] out) {
+        System.arraycopy(in[Sensor.TYPE_GRAVITY], 0, out, 0, 3);
+        return true;
+    }
 
-            case Sensor.TYPE_HEADING:
-                System.arraycopy(event.values, 0, headingValues, 0, event.values.length);
-                if (isHeadingActive) {
-                    sendDirectHeadingData();
-                }
-                break;
+    private boolean processGameRotation(float[][] in, float[] out) {
+        float[] vector = in[Sensor.TYPE_GAME_ROTATION_VECTOR];
+        SensorManager.getQuaternionFromVector(quaternion, vector);
+        SensorManager.getRotationMatrixFromVector(rotationMatrix, vector);
+        SensorManager.getOrientation(rotationMatrix, orientationAngles);
+        out[0] = (float) Math.toDegrees(orientationAngles[0]);
+        out[1] = (float) Math.toDegrees(orientationAngles[1]);
+        out[2] = (float) Math.toDegrees(orientationAngles[2]);
+        // getQuaternionFromVector returns (w, x, y, z)
+        System.arraycopy(quaternion, 0, out, 3, 4);
+        return true;
+    }
+
+    private boolean processPressure(float[][] in, float[] out) {
+        float pressure = in[Sensor.TYPE_PRESSURE][0];
+        out[0] = pressure;
+        out[1] = SensorManager.getAltitude(SensorManager.PRESSURE_STANDARD_ATMOSPHERE, pressure);
+        return true;
+    }
+
+    private boolean processSteps(float[][] in, float[] out) {
+        float stepsSinceBoot = in[Sensor.TYPE_STEP_COUNTER][0];
+        if (stepCounterBaseline < 0) {
+            stepCounterBaseline = stepsSinceBoot;
         }
+        out[0] = stepsSinceBoot - stepCounterBaseline;
+        out[1] = stepsSinceBoot;
+        return true;
     }
 
-    private void sendAccelerometerData() {
-        if (accelerometerValues.length < 3 || gyroscopeValues.length < 3) {
-            System.out
-                    .println("[Motion.java] sendAccelerometerData: Insufficient data from accel or gyro. Accel length: "
-                            + accelerometerValues.length + ", Gyro length: " + gyroscopeValues.length);
-            return;
+    private float getDeclination() {
+        // Apply magnetic declination to get true north
+        try {
+            if (geomagneticField == null) {
+                geomagneticField = new GeomagneticField(
+                        (float) currentLatitude,
+                        (float) currentLongitude,
+                        (float) currentAltitude,
+                        System.currentTimeMillis());
+            }
+            return geomagneticField.getDeclination();
+        } catch (Exception e) {
+            System.out.println("Motion: Error calculating magnetic declination, using magnetic heading: "
+                    + e.getMessage());
+            return 0f;
         }
+    }
+
+    private static double normalizeDegrees(double degrees) {
+        // Normalize to 0-360 degrees
+        while (degrees < 0)
+            degrees += 360;
+        while (degrees >= 360)
+            degrees -= 360;
+        return degrees;
+    }
+
+    // Emitters: serialize the channel buffer and hand it to the bridge
 
+    private void emitAccel(float[] values) {
         JSObject acceleration = new JSObject();
-        acceleration.put("x", accelerometerValues[0]);
-        acceleration.put("y", accelerometerValues[1]);
-        acceleration.put("z", accelerometerValues[2]);
+        acceleration.put("x", values[0]);
+        acceleration.put("y", values[1]);
+        acceleration.put("z", values[2]);
 
         JSObject accelerationIncludingGravity = new JSObject();
-        accelerationIncludingGravity.put("x", accelerometerValues[0]);
-        accelerationIncludingGravity.put("y", accelerometerValues[1]);
-        accelerationIncludingGravity.put("z", accelerometerValues[2]);
+        accelerationIncludingGravity.put("x", values[0]);
+        accelerationIncludingGravity.put("y", values[1]);
+        accelerationIncludingGravity.put("z", values[2]);
 
         JSObject rotationRate = new JSObject();
-        rotationRate.put("alpha", Math.toDegrees(gyroscopeValues[2]));
-        rotationRate.put("beta", Math.toDegrees(gyroscopeValues[0]));
-        rotationRate.put("gamma", Math.toDegrees(gyroscopeValues[1]));
+        rotationRate.put("alpha", Math.toDegrees(values[5]));
+        rotationRate.put("beta", Math.toDegrees(values[3]));
+        rotationRate.put("gamma", Math.toDegrees(values[4]));
 
         JSObject data = new JSObject();
         data.put("acceleration", acceleration);
         data.put("accelerationIncludingGravity", accelerationIncludingGravity);
         data.put("rotationRate", rotationRate);
-        data.put("interval", 16.67);
+        data.put("interval", values[6]);
 
-        System.out.println("[Motion.java] sendAccelerometerData: About to notify listeners for 'accel'");
         motionPlugin.bridgeNotifyListeners("accel", data);
-        System.out.println("[Motion.java] sendAccelerometerData: Finished notifying listeners for 'accel'");
     }
 
-    private void calculateOrientation() {
-        if (accelerometerValues.length < 3 || magnetometerValues.length < 3)
-            return;
-
-        if (SensorManager.getRotationMatrix(rotationMatrix, null, accelerometerValues, magnetometerValues)) {
-            SensorManager.getOrientation(rotationMatrix, orientationAngles);
-
-            JSObject data = new JSObject();
-            data.put("alpha", Math.toDegrees(orientationAngles[0]));
-            data.put("beta", Math.toDegrees(orientationAngles[1]));
-            data.put("gamma", Math.toDegrees(orientationAngles[2]));
+    private void emitOrientation(float[] values) {
+        JSObject data = new JSObject();
+        data.put("alpha", values[0]);
+        data.put("beta", values[1]);
+        data.put("gamma", values[2]);
 
-            System.out.println("[Motion.java] calculateOrientation: About to notify listeners for 'orientation'");
-            motionPlugin.bridgeNotifyListeners("orientation", data);
-            System.out.println("[Motion.java] calculateOrientation: Finished notifying listeners for 'orientation'");
-        }
+        motionPlugin.bridgeNotifyListeners("orientation", data);
     }
 
-    private void calculateHeading() {
-        if (accelerometerValues.length < 3 || magnetometerValues.length < 3)
-            return;
-
-        if (SensorManager.getRotationMatrix(rotationMatrix, inclinationMatrix, accelerometerValues,
-                magnetometerValues)) {
-            SensorManager.getOrientation(rotationMatrix, orientationAngles);
-
-            // Get magnetic heading first (azimuth in radians)
-            double magneticHeadingRadians = orientationAngles[0];
-            double magneticHeadingDegrees = Math.toDegrees(magneticHeadingRadians);
-
-            // Calculate true north by applying magnetic declination
-            double trueHeadingDegrees = magneticHeadingDegrees;
-
-            try {
-                // Create GeomagneticField to get magnetic declination
-                geomagneticField = new GeomagneticField(
-                        (float) currentLatitude,
-                        (float) currentLongitude,
-                        (float) currentAltitude,
-                        System.currentTimeMillis());
+    private void emitHeading(float[] values) {
+        JSObject data = new JSObject();
+        data.put("heading", values[0]);
 
-                // Get magnetic declination (difference between magnetic north and true north)
-                float declination = geomagneticField.getDeclination();
+        motionPlugin.bridgeNotifyListeners("heading", data);
+    }
 
-                // Apply declination to get true heading
-                trueHeadingDegrees = magneticHeadingDegrees + declination;
+    private void emitGravity(float[] values) {
+        JSObject data = new JSObject();
+        data.put("x", values[0]);
+        data.put("y", values[1]);
+        data.put("z", values[2]);
 
-                System.out.println("Motion: Magnetic heading: " + magneticHeadingDegrees + "°, Declination: "
-                        + declination + "°, True heading: " + trueHeadingDegrees + "°");
+        motionPlugin.bridgeNotifyListeners("gravity", data);
+    }
 
-            } catch (Exception e) {
-                System.out.println(
-                        "Motion: Error calculating magnetic declination, using magnetic heading: " + e.getMessage());
-            }
+    private void emitGameRotation(float[] values) {
+        JSObject quaternionData = new JSObject();
+        quaternionData.put("w", values[3]);
+        quaternionData.put("x", values[4]);
+        quaternionData.put("y", values[5]);
+        quaternionData.put("z", values[6]);
 
-            // Normalize to 0-360 degrees
-            while (trueHeadingDegrees < 0)
-                trueHeadingDegrees += 360;
-            while (trueHeadingDegrees >= 360)
-                trueHeadingDegrees -= 360;
+        JSObject data = new JSObject();
+        data.put("alpha", values[0]);
+        data.put("beta", values[1]);
+        data.put("gamma", values[2]);
+        data.put("quaternion", quaternionData);
 
-            // Keep the calculation logic but don't send notifications when using rotation
-            // vector
-            System.out.println(
-                    "[Motion.java] calculateHeading: Calculated true north value: " + trueHeadingDegrees +
-                            " (not sending notification - using rotation vector instead)");
-        }
+        motionPlugin.bridgeNotifyListeners("gameRotation", data);
     }
 
-    private void sendDirectHeadingData() {
-        if (headingValues.length < 1)
-            return;
-
-        // The heading sensor typically provides values in degrees (0-360)
-        double headingDegrees = headingValues[0];
+    private void emitPressure(float[] values) {
+        JSObject data = new JSObject();
+        data.put("pressure", values[0]);
+        data.put("altitude", values[1]);
 
-        // Ensure the value is normalized to 0-360 range
-        while (headingDegrees < 0)
-            headingDegrees += 360;
-        while (headingDegrees >= 360)
-            headingDegrees -= 360;
+        motionPlugin.bridgeNotifyListeners("pressure", data);
+    }
 
+    private void emitSteps(float[] values) {
         JSObject data = new JSObject();
-        data.put("heading", headingDegrees);
+        data.put("steps", (long) values[0]);
+        data.put("stepsSinceBoot", (long) values[1]);
 
-        System.out.println(
-                "[Motion.java] sendDirectHeadingData: About to notify listeners for 'heading' with direct sensor value: "
-                        + headingDegrees);
-        motionPlugin.bridgeNotifyListeners("heading", data);
-        System.out.println("[Motion.java] sendDirectHeadingData: Finished notifying listeners for 'heading'");
+        motionPlugin.bridgeNotifyListeners("steps", data);
     }
 
     @Override
@@ -477,6 +635,8 @@ public class Motion implements SensorEventListener, LocationListener {
         currentLatitude = location.getLatitude();
         currentLongitude = location.getLongitude();
         currentAltitude = location.getAltitude();
+        // Recompute declination for the new position on the next heading sample
+        geomagneticField = null;
         System.out.println("Motion: Location updated for true north: " + currentLatitude + ", " + currentLongitude);
     }
 
@@ -494,4 +654,4 @@ public class Motion implements SensorEventListener, LocationListener {
     public void onProviderDisabled(String provider) {
         System.out.println("Motion: Location provider disabled: " + provider);
     }
-}
\ No newline at end of file
+}
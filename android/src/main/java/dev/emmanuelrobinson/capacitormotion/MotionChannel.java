@@ -0,0 +1,71 @@
+package dev.emmanuelrobinson.capacitormotion;
+
+import android.hardware.Sensor;
+import android.hardware.SensorManager;
+
+/**
+ * Descriptor for a single event channel exposed to JS (e.g. "accel", "gravity").
+ *
+ * A channel is driven by one or more sensor types. Whenever one of them reports,
+ * the processor turns the latest raw readings into the channel's preallocated
+ * value buffer and, if it produced a reading, the emitter sends it to the bridge.
+ *
+ * Adaptive channels follow the still/moving sampling mode; the others (e.g.
+ * on-change sensors like the step counter) always run at their normal rate.
+ */
+class MotionChannel {
+
+    interface Processor {
+        /**
+         * Fill {@code out} from the latest raw readings, indexed by sensor type.
+         *
+         * @return true if {@code out} holds a reading that should be emitted.
+         */
+        boolean process(float[][] sensorValues, float[] out);
+    }
+
+    interface Emitter {
+        void emit(float[] values);
+    }
+
+    final String eventName;
+    final int[] sensorTypes;
+    final float[] values;
+    final Processor processor;
+    final Emitter emitter;
+    final boolean adaptive;
+    final Sensor[] sensors;
+    // Only read or written on Motion's sensor thread
+    boolean active = false;
+
+    MotionChannel(SensorManager sensorManager, String eventName, int[] sensorTypes, int bufferSize,
+            boolean adaptive, Processor processor, Emitter emitter) {
+        this.eventName = eventName;
+        this.sensorTypes = sensorTypes;
+        this.values = new float[bufferSize];
+        this.adaptive = adaptive;
+        this.processor = processor;
+        this.emitter = emitter;
+        this.sensors = new Sensor[sensorTypes.length];
+        for (int i = 0; i < sensorTypes.length; i++) {
+            sensors[i] = sensorManager.getDefaultSensor(sensorTypes[i]);
+        }
+    }
+
+    /**
+     * Convenience constructor for channels backed by a single sensor type.
+     */
+    MotionChannel(SensorManager sensorManager, String eventName, int sensorType, int bufferSize,
+            boolean adaptive, Processor processor, Emitter emitter) {
+        this(sensorManager, eventName, new int[] { sensorType }, bufferSize, adaptive, processor, emitter);
+    }
+
+    boolean isAvailable() {
+        for (Sensor sensor : sensors) {
+            if (sensor == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -16,6 +16,13 @@ public class MotionPlugin extends Plugin {
         System.out.println("MotionPlugin loaded and implementation initialized.");
     }
 
+    @Override
+    protected void handleOnDestroy() {
+        if (implementation != null) {
+            implementation.destroy();
+        }
+    }
+
     @PluginMethod
     public void startMotionUpdates(PluginCall call) {
         if (implementation == null) {
@@ -56,13 +63,7 @@ public class MotionPlugin extends Plugin {
         super.addListener(call);
         
         // Then start the appropriate sensor updates
-        if ("accel".equals(eventName)) {
-            implementation.startAccelerometerUpdates();
-        } else if ("orientation".equals(eventName)) {
-            implementation.startOrientationUpdates();
-        } else if ("heading".equals(eventName)) {
-            implementation.startHeadingUpdates();
-        } else {
+        if (!implementation.startChannelUpdates(eventName)) {
             System.out.println("MotionPlugin: Listener registered for unknown event type: " + eventName);
         }
         
@@ -85,6 +86,13 @@ public class MotionPlugin extends Plugin {
         super.removeAllListeners(call);
     }
 
+    /**
+     * Helper method to allow the Motion implementation class to call hasListeners.
+     */
+    public boolean bridgeHasListeners(String eventName) {
+        return hasListeners(eventName);
+    }
+
     /**
      * Helper method to allow the Motion implementation class to call notifyListeners.
      */
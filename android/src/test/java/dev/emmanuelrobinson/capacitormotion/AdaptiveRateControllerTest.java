@@ -0,0 +1,144 @@
+package dev.emmanuelrobinson.capacitormotion;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveRateControllerTest {
+
+    private static final long SAMPLE_NANOS = 20_000_000L;
+    private static final int SAMPLES_PER_WINDOW = (int) (AdaptiveRateController.WINDOW_NANOS / SAMPLE_NANOS);
+    private static final float GRAVITY = 9.81f;
+
+    // Per-axis jitter amplitudes; the variance of an alternating ±a signal is a²
+    private static final float STILL_NOISE = 0.01f;
+    private static final float BETWEEN_NOISE = 0.1f;
+    private static final float MOVING_NOISE = 0.3f;
+
+    private AdaptiveRateController controller;
+    private long time;
+
+    @Before
+    public void setUp() {
+        controller = new AdaptiveRateController();
+        open();
+    }
+
+    /** Open a window at the current time so each {@link #window} call closes exactly one. */
+    private void open() {
+        controller.onAccelerometer(time, 0, 0, GRAVITY);
+    }
+
+    private boolean window(float noise, float rotationRate) {
+        boolean changed = false;
+        for (int i = 0; i < SAMPLES_PER_WINDOW; i++) {
+            time += SAMPLE_NANOS;
+            changed |= controller.onGyroscope(time, 0, 0, rotationRate);
+            float jitter = (time / SAMPLE_NANOS) % 2 == 0 ? noise : -noise;
+            changed |= controller.onAccelerometer(time, jitter, 0, GRAVITY);
+        }
+        return changed;
+    }
+
+    private void goIdle() {
+        for (int i = 0; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            window(STILL_NOISE, 0);
+        }
+        assertTrue(controller.isIdle());
+    }
+
+    @Test
+    public void stillStreamGoesIdleAfterStillWindows() {
+        for (int i = 1; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            assertFalse(window(STILL_NOISE, 0));
+            assertFalse(controller.isIdle());
+        }
+        assertTrue(window(STILL_NOISE, 0));
+        assertTrue(controller.isIdle());
+    }
+
+    @Test
+    public void varianceBetweenThresholdsKeepsActiveMode() {
+        for (int i = 0; i < 10; i++) {
+            assertFalse(window(BETWEEN_NOISE, 0));
+        }
+        assertFalse(controller.isIdle());
+    }
+
+    @Test
+    public void varianceBetweenThresholdsKeepsIdleMode() {
+        goIdle();
+        for (int i = 0; i < 10; i++) {
+            assertFalse(window(BETWEEN_NOISE, 0));
+        }
+        assertTrue(controller.isIdle());
+    }
+
+    @Test
+    public void nonStillWindowRestartsStillCount() {
+        for (int i = 1; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            window(STILL_NOISE, 0);
+        }
+        window(BETWEEN_NOISE, 0);
+        for (int i = 1; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            window(STILL_NOISE, 0);
+        }
+        assertFalse(controller.isIdle());
+    }
+
+    @Test
+    public void movingWindowWakesIdleController() {
+        goIdle();
+        assertTrue(window(MOVING_NOISE, 0));
+        assertFalse(controller.isIdle());
+    }
+
+    @Test
+    public void rotationAboutGravityAxisWakesIdleController() {
+        goIdle();
+        // Turning flat on the spot leaves the accelerometer unchanged; only the gyroscope sees it
+        assertTrue(window(STILL_NOISE, (float) Math.toRadians(90)));
+        assertFalse(controller.isIdle());
+    }
+
+    @Test
+    public void steadyRotationKeepsControllerActive() {
+        for (int i = 0; i < 10; i++) {
+            assertFalse(window(STILL_NOISE, (float) Math.toRadians(90)));
+        }
+        assertFalse(controller.isIdle());
+    }
+
+    @Test
+    public void tiltingKeepsControllerActiveWithoutGyroscope() {
+        // |a| stays at g while the device tilts at 90°/s, but the per-axis readings swing
+        for (int i = 1; i <= 10 * SAMPLES_PER_WINDOW; i++) {
+            time += SAMPLE_NANOS;
+            double angle = Math.toRadians(90) * time / 1e9;
+            float jitter = i % 2 == 0 ? STILL_NOISE : -STILL_NOISE;
+            controller.onAccelerometer(time, (float) (GRAVITY * Math.sin(angle)) + jitter, 0,
+                    (float) (GRAVITY * Math.cos(angle)));
+            assertFalse(controller.isIdle());
+        }
+    }
+
+    @Test
+    public void resetClearsState() {
+        goIdle();
+        controller.reset();
+        assertFalse(controller.isIdle());
+
+        // Still windows counted before the reset do not carry over
+        open();
+        for (int i = 1; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            window(STILL_NOISE, 0);
+        }
+        controller.reset();
+        open();
+        for (int i = 1; i < AdaptiveRateController.STILL_WINDOWS_TO_IDLE; i++) {
+            assertFalse(window(STILL_NOISE, 0));
+        }
+        assertFalse(controller.isIdle());
+    }
+}
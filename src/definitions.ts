@@ -31,6 +31,68 @@ export interface MotionPlugin {
     listenerFunc: HeadingListener,
   ): Promise<PluginListenerHandle>;
 
+  /**
+   * Add a listener for the gravity vector, separated from linear acceleration.
+   *
+   * Only available on Android.
+   *
+   * @since 1.1.0
+   */
+  addListener(
+    eventName: 'gravity',
+    listenerFunc: GravityListener,
+  ): Promise<PluginListenerHandle>;
+
+  /**
+   * Add a listener for device rotation that does not use the magnetometer.
+   * Unaffected by magnetic interference, but not referenced to north.
+   *
+   * Only available on Android.
+   *
+   * @since 1.1.0
+   */
+  addListener(
+    eventName: 'gameRotation',
+    listenerFunc: GameRotationListener,
+  ): Promise<PluginListenerHandle>;
+
+  /**
+   * Add a listener for barometric pressure and the altitude derived from it.
+   *
+   * Only available on Android.
+   *
+   * @since 1.1.0
+   */
+  addListener(
+    eventName: 'pressure',
+    listenerFunc: PressureListener,
+  ): Promise<PluginListenerHandle>;
+
+  /**
+   * Add a listener for the hardware step counter.
+   *
+   * Only available on Android. Requires the `ACTIVITY_RECOGNITION` permission on Android 10+.
+   *
+   * @since 1.1.0
+   */
+  addListener(
+    eventName: 'steps',
+    listenerFunc: StepsListener,
+  ): Promise<PluginListenerHandle>;
+
+  /**
+   * Add a listener for sampling mode changes. Sensors are sampled at a reduced
+   * rate while the device is still and return to full rate when motion resumes.
+   *
+   * Only available on Android.
+   *
+   * @since 1.1.0
+   */
+  addListener(
+    eventName: 'samplingMode',
+    listenerFunc: SamplingModeListener,
+  ): Promise<PluginListenerHandle>;
+
   /**
    * Remove all the listeners that are attached to this plugin.
    *
@@ -43,7 +105,7 @@ export interface MotionPlugin {
    *
    * @since 1.0.0
    */
-  startMotionUpdates(): Promise<void>;
+  startMotionUpdates(options?: StartMotionUpdatesOptions): Promise<void>;
 
   /**
    * Stop motion updates
@@ -58,6 +120,12 @@ export type OrientationListener = (event: OrientationListenerEvent) => void;
 export type OrientationListenerEvent = RotationRate;
 export type HeadingListener = (event: HeadingListenerEvent) => void;
 export type HeadingListenerEvent = Heading;
+export type GravityListener = (event: GravityListenerEvent) => void;
+export type GravityListenerEvent = Acceleration;
+export type GameRotationListener = (event: GameRotationListenerEvent) => void;
+export type PressureListener = (event: PressureListenerEvent) => void;
+export type StepsListener = (event: StepsListenerEvent) => void;
+export type SamplingModeListener = (event: SamplingModeListenerEvent) => void;
 
 export interface RotationRate {
   /**
@@ -143,3 +211,120 @@ export interface AccelListenerEvent {
    */
   interval: number;
 }
+
+export interface Quaternion {
+  /**
+   * The scalar component of the quaternion.
+   *
+   * @since 1.1.0
+   */
+  w: number;
+
+  /**
+   * The X component of the quaternion.
+   *
+   * @since 1.1.0
+   */
+  x: number;
+
+  /**
+   * The Y component of the quaternion.
+   *
+   * @since 1.1.0
+   */
+  y: number;
+
+  /**
+   * The Z component of the quaternion.
+   *
+   * @since 1.1.0
+   */
+  z: number;
+}
+
+export interface GameRotationListenerEvent {
+  /**
+   * The rotation around the Z axis, in degrees, relative to an arbitrary reference.
+   *
+   * @since 1.1.0
+   */
+  alpha: number;
+
+  /**
+   * The rotation around the X axis, in degrees.
+   *
+   * @since 1.1.0
+   */
+  beta: number;
+
+  /**
+   * The rotation around the Y axis, in degrees.
+   *
+   * @since 1.1.0
+   */
+  gamma: number;
+
+  /**
+   * The same rotation expressed as a unit quaternion.
+   *
+   * @since 1.1.0
+   */
+  quaternion: Quaternion;
+}
+
+export interface PressureListenerEvent {
+  /**
+   * The atmospheric pressure, in hPa.
+   *
+   * @since 1.1.0
+   */
+  pressure: number;
+
+  /**
+   * The altitude, in meters, estimated from the pressure against the standard atmosphere.
+   *
+   * @since 1.1.0
+   */
+  altitude: number;
+}
+
+export interface StepsListenerEvent {
+  /**
+   * The number of steps taken since the listener was added.
+   *
+   * @since 1.1.0
+   */
+  steps: number;
+
+  /**
+   * The number of steps reported by the device since the last reboot.
+   *
+   * @since 1.1.0
+   */
+  stepsSinceBoot: number;
+}
+
+export interface SamplingModeListenerEvent {
+  /**
+   * `idle` while the device is still and sensors run at a reduced rate,
+   * `active` while it is moving and sensors run at full rate.
+   *
+   * If updates are stopped while idle, an `active` event is sent to signal
+   * that sensors will restart at full rate.
+   *
+   * @since 1.1.0
+   */
+  mode: 'active' | 'idle';
+}
+
+export interface StartMotionUpdatesOptions {
+  /**
+   * Reduce the sampling rate while the device is still.
+   *
+   * Only available on Android.
+   *
+   * @default true
+   * @since 1.1.0
+   */
+  adaptiveSampling?: boolean;
+}
@@ -10,7 +10,18 @@ export class MotionWeb extends WebPlugin implements MotionPlugin {
   private orientationHandler: ((event: DeviceOrientationEvent) => void) | null = null;
   private headingHandler: ((event: GeolocationPosition) => void) | null = null;
 
-  async addListener(eventName: 'accel' | 'orientation' | 'heading', listenerFunc: any) {
+  async addListener(
+    eventName:
+      | 'accel'
+      | 'orientation'
+      | 'heading'
+      | 'gravity'
+      | 'gameRotation'
+      | 'pressure'
+      | 'steps'
+      | 'samplingMode',
+    listenerFunc: any,
+  ) {
     if (eventName === 'accel') {
       this.accelListeners.push(listenerFunc);
       await this.startAccelerometer();
@@ -53,7 +64,7 @@ export class MotionWeb extends WebPlugin implements MotionPlugin {
   }
 
   async startMotionUpdates() {
-    // Web implementation doesn't need explicit start
+    // Web implementation doesn't need explicit start; adaptive sampling is Android only
   }
 
   async stopMotionUpdates() {